@@ -1,16 +1,28 @@
-# ১. বিল্ড স্টেজ
-FROM maven:3.8.5-openjdk-17 AS build
+# ১. বিল্ড স্টেজ (pom.xml এর java.version=21 এর সাথে মিল রেখে JDK 21)
+FROM maven:3.9-eclipse-temurin-21 AS build
 WORKDIR /app
 COPY . .
-RUN mvn clean package -DskipTests
+# fast-startup প্রোফাইল Spring AOT প্রসেসিং চালায়
+RUN mvn clean package -Pfast-startup -DskipTests
+# CDS আর্কাইভ নেস্টেড জার বা ক্লাস ডিরেক্টরি থেকে কাজ করে না,
+# তাই অ্যাপের ক্লাসগুলো আলাদা জারে আর ডিপেন্ডেন্সিগুলো lib/ এ রাখা হলো
+RUN mkdir -p /app/unpacked && cd /app/unpacked && jar -xf /app/target/drift-*.jar \
+    && jar -cf /app/application.jar -C /app/unpacked/BOOT-INF/classes .
 
 # ২. রান স্টেজ
-FROM openjdk:17-jdk-slim
+FROM eclipse-temurin:21-jre
 WORKDIR /app
-COPY --from=build /app/target/*.jar app.jar
+COPY --from=build /app/unpacked/BOOT-INF/lib ./lib
+COPY --from=build /app/application.jar ./application.jar
 
-# ৩. পোর্ট এক্সপোজ
+# ৩. ট্রেনিং রান: কনটেক্সট রিফ্রেশ হওয়ার পর অ্যাপ বন্ধ হয়ে AppCDS আর্কাইভ (app.jsa) তৈরি হয়
+RUN java -XX:ArchiveClassesAtExit=app.jsa \
+        -Dspring.aot.enabled=true \
+        -Dspring.context.exit=onRefresh \
+        -cp "application.jar:lib/*" com.onyx.drift.DriftApplication
+
+# ৪. পোর্ট এক্সপোজ
 EXPOSE 8080
 
-# ৪. রান কমান্ড
-ENTRYPOINT ["java", "-jar", "app.jar"]
\ No newline at end of file
+# ৫. রান কমান্ড (AOT + CDS আর্কাইভ সহ)
+ENTRYPOINT ["java", "-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true", "-cp", "application.jar:lib/*", "com.onyx.drift.DriftApplication"]
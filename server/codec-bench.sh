@@ -0,0 +1,10 @@
+#!/usr/bin/env bash
+# পোস্ট ক্যাশ কোডেক বেঞ্চমার্ক: PostCodec বনাম Jackson/JDK সিরিয়ালাইজারের পেলোড সাইজ ও ডিকোড টাইম
+#
+# ব্যবহার: ./codec-bench.sh [feedSize]    (ডিফল্ট 500 পোস্ট)
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+mvn -q -B test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+java -cp "target/test-classes:target/classes:$(cat target/classpath.txt)" com.onyx.drift.cache.PostCodecBenchmark "$@"
@@ -3,9 +3,11 @@ package com.onyx.drift;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching // ক্যাশিং এনাবল করার জন্য এটি অত্যন্ত জরুরি
+@EnableScheduling // হট স্টেট স্ন্যাপশট টাইমারের জন্য
 public class DriftApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,77 @@
+package com.onyx.drift.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis এর ইন-মেমোরি বিকল্প: নেটওয়ার্ক ছাড়া লোকাল রান ও টেস্টের জন্য (drift.cache.store=memory)
+ * Redis এর মতোই ভ্যালুর কপি রাখে এবং TTL পার হলে এন্ট্রি মিস হিসেবে গণ্য হয়।
+ * আর কখনো পড়া হয় না এমন কী (যেমন পুরনো feed:all:{gen}) জমে না থাকে, তাই কিছু লেখার পর পর মেয়াদোত্তীর্ণ এন্ট্রি মুছে ফেলা হয়।
+ */
+public class InMemoryPostCacheStore implements PostCacheStore {
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+    }
+
+    // এতগুলো লেখার পর একবার পুরো ম্যাপ থেকে মেয়াদোত্তীর্ণ এন্ট্রি মোছা
+    static final int SWEEP_EVERY_WRITES = 256;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSinceSweep = new AtomicInteger();
+
+    @Override
+    public List<byte[]> multiGet(List<String> keys) {
+        long now = System.currentTimeMillis();
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() <= now) {
+                entries.remove(key, entry);
+                entry = null;
+            }
+            values.add(entry != null ? entry.value().clone() : null);
+        }
+        return values;
+    }
+
+    @Override
+    public void multiSet(Map<String, byte[]> newEntries, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        newEntries.forEach((key, value) -> entries.put(key, new Entry(value.clone(), expiresAt)));
+        afterWrite();
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    // Redis এর মতো মান ASCII সংখ্যা হিসেবে রাখা, যাতে multiGet দিয়েও পড়া যায়
+    @Override
+    public long increment(String key) {
+        Entry updated = entries.compute(key, (k, entry) -> {
+            long current = entry != null && entry.expiresAtMillis() > System.currentTimeMillis()
+                    ? Long.parseLong(new String(entry.value(), StandardCharsets.US_ASCII))
+                    : 0;
+            return new Entry(Long.toString(current + 1).getBytes(StandardCharsets.US_ASCII), Long.MAX_VALUE);
+        });
+        afterWrite();
+        return Long.parseLong(new String(updated.value(), StandardCharsets.US_ASCII));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void afterWrite() {
+        if (writesSinceSweep.incrementAndGet() < SWEEP_EVERY_WRITES) return;
+        writesSinceSweep.set(0);
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+    }
+}
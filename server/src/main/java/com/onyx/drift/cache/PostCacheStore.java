@@ -0,0 +1,23 @@
+package com.onyx.drift.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * বাইনারি পোস্ট ক্যাশের স্টোরেজ (Redis অথবা নেটওয়ার্ক ছাড়া ইন-মেমোরি)
+ * drift.cache.store=redis | memory দিয়ে রানটাইমে বেছে নেওয়া হয় (RedisConfig.postCacheStore)
+ */
+public interface PostCacheStore {
+
+    // কী-গুলোর ভ্যালু একই ক্রমে, না পেলে সেই জায়গায় null (এক রাউন্ড ট্রিপে)
+    List<byte[]> multiGet(List<String> keys);
+
+    // সব এন্ট্রি একসাথে TTL সহ লেখা
+    void multiSet(Map<String, byte[]> entries, Duration ttl);
+
+    void delete(String key);
+
+    // কাউন্টার এক বাড়িয়ে নতুন মান (Redis INCR; মান ASCII সংখ্যা হিসেবে থাকে, কোনো TTL নেই)
+    long increment(String key);
+}
@@ -0,0 +1,264 @@
+package com.onyx.drift.cache;
+
+import com.onyx.drift.model.Post;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis-এ ক্যাশ করা Post এবং ফিড আইডি লিস্টের কমপ্যাক্ট বাইনারি কোডেক
+ *
+ * হেডার: VERSION(byte) | KIND(byte) | FLAGS(byte)
+ * Post বডি: presence বিটমাস্ক, varint আইডি, varint-লেন্থ UTF-8 স্ট্রিং, createdAt (epoch second + nano)
+ * ফিড বডি: varint count, zigzag-delta আইডি, ঐচ্ছিক nextCursor
+ * বডি threshold এর চেয়ে বড় হলে Deflate করা হয় (ছোট হলে তবেই), তখন বডির আগে মূল লেন্থ থাকে।
+ * ভার্সন না মিললে IllegalArgumentException, কলার সেটিকে ক্যাশ মিস হিসেবে ধরে।
+ */
+public class PostCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final byte KIND_POST = 1;
+    private static final byte KIND_FEED = 2;
+    private static final byte FLAG_COMPRESSED = 1;
+    private static final int MAX_RAW_LENGTH = 16 * 1024 * 1024;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_USERNAME = 1 << 1;
+    private static final int HAS_CONTENT = 1 << 2;
+    private static final int HAS_MEDIA_URL = 1 << 3;
+    private static final int HAS_MEDIA_TYPE = 1 << 4;
+    private static final int HAS_AUTHOR_AVATAR = 1 << 5;
+    private static final int HAS_CREATED_AT = 1 << 6;
+
+    /** ক্যাশ করা ফিড: পোস্ট আইডির লিস্ট (হাইড্রেশন আলাদাভাবে multi-get দিয়ে হয়) */
+    public record FeedIds(List<Long> ids, Long nextCursor) {
+    }
+
+    private final int compressThreshold;
+
+    public PostCodec(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    public byte[] encodePost(Post post) {
+        Writer body = new Writer();
+        int mask = (post.getId() != null ? HAS_ID : 0)
+                | (post.getUsername() != null ? HAS_USERNAME : 0)
+                | (post.getContent() != null ? HAS_CONTENT : 0)
+                | (post.getMediaUrl() != null ? HAS_MEDIA_URL : 0)
+                | (post.getMediaType() != null ? HAS_MEDIA_TYPE : 0)
+                | (post.getAuthorAvatar() != null ? HAS_AUTHOR_AVATAR : 0)
+                | (post.getCreatedAt() != null ? HAS_CREATED_AT : 0);
+        body.write(mask);
+        if (post.getId() != null) body.writeVarLong(zigzag(post.getId()));
+        if (post.getUsername() != null) body.writeString(post.getUsername());
+        if (post.getContent() != null) body.writeString(post.getContent());
+        if (post.getMediaUrl() != null) body.writeString(post.getMediaUrl());
+        if (post.getMediaType() != null) body.writeString(post.getMediaType());
+        if (post.getAuthorAvatar() != null) body.writeString(post.getAuthorAvatar());
+        if (post.getCreatedAt() != null) {
+            body.writeVarLong(zigzag(post.getCreatedAt().toEpochSecond(ZoneOffset.UTC)));
+            body.writeVarLong(post.getCreatedAt().getNano());
+        }
+        return frame(KIND_POST, body.toByteArray());
+    }
+
+    public Post decodePost(byte[] bytes) {
+        ByteBuffer in = unframe(KIND_POST, bytes);
+        try {
+            int mask = in.get() & 0xFF;
+            Post post = new Post();
+            if ((mask & HAS_ID) != 0) post.setId(unzigzag(readVarLong(in)));
+            if ((mask & HAS_USERNAME) != 0) post.setUsername(readString(in));
+            if ((mask & HAS_CONTENT) != 0) post.setContent(readString(in));
+            if ((mask & HAS_MEDIA_URL) != 0) post.setMediaUrl(readString(in));
+            if ((mask & HAS_MEDIA_TYPE) != 0) post.setMediaType(readString(in));
+            if ((mask & HAS_AUTHOR_AVATAR) != 0) post.setAuthorAvatar(readString(in));
+            if ((mask & HAS_CREATED_AT) != 0) {
+                long epochSecond = unzigzag(readVarLong(in));
+                int nano = (int) readVarLong(in);
+                post.setCreatedAt(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+            }
+            return post;
+        } catch (BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Corrupt post payload", e);
+        }
+    }
+
+    public byte[] encodeFeed(List<Long> ids, Long nextCursor) {
+        Writer body = new Writer();
+        body.writeVarLong(ids.size());
+        long previous = 0;
+        for (Long id : ids) {
+            body.writeVarLong(zigzag(id - previous));
+            previous = id;
+        }
+        body.write(nextCursor != null ? 1 : 0);
+        if (nextCursor != null) body.writeVarLong(zigzag(nextCursor));
+        return frame(KIND_FEED, body.toByteArray());
+    }
+
+    public FeedIds decodeFeed(byte[] bytes) {
+        ByteBuffer in = unframe(KIND_FEED, bytes);
+        try {
+            long count = readVarLong(in);
+            if (count < 0 || count > in.remaining()) {
+                throw new IllegalArgumentException("Corrupt feed payload");
+            }
+            List<Long> ids = new ArrayList<>((int) count);
+            long previous = 0;
+            for (long i = 0; i < count; i++) {
+                previous += unzigzag(readVarLong(in));
+                ids.add(previous);
+            }
+            Long nextCursor = in.get() != 0 ? unzigzag(readVarLong(in)) : null;
+            return new FeedIds(ids, nextCursor);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupt feed payload", e);
+        }
+    }
+
+    // হেডার যোগ করা এবং প্রয়োজন হলে বডি কমপ্রেস করা
+    private byte[] frame(byte kind, byte[] body) {
+        byte flags = 0;
+        byte[] payload = body;
+        if (body.length >= compressThreshold) {
+            byte[] deflated = deflate(body);
+            Writer compressed = new Writer();
+            compressed.writeVarLong(body.length);
+            compressed.write(deflated, 0, deflated.length);
+            if (compressed.size() < body.length) {
+                flags |= FLAG_COMPRESSED;
+                payload = compressed.toByteArray();
+            }
+        }
+        byte[] framed = new byte[3 + payload.length];
+        framed[0] = VERSION;
+        framed[1] = kind;
+        framed[2] = flags;
+        System.arraycopy(payload, 0, framed, 3, payload.length);
+        return framed;
+    }
+
+    private ByteBuffer unframe(byte kind, byte[] bytes) {
+        if (bytes == null || bytes.length < 3 || bytes[0] != VERSION || bytes[1] != kind) {
+            throw new IllegalArgumentException("Unsupported payload version or kind");
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes, 3, bytes.length - 3);
+        if ((bytes[2] & FLAG_COMPRESSED) == 0) {
+            return in;
+        }
+        try {
+            long rawLength = readVarLong(in);
+            if (rawLength < 0 || rawLength > MAX_RAW_LENGTH) {
+                throw new IllegalArgumentException("Corrupt compressed payload");
+            }
+            return ByteBuffer.wrap(inflate(in, (int) rawLength));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupt compressed payload", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(ByteBuffer input, int rawLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[rawLength];
+            int offset = 0;
+            while (offset < rawLength) {
+                int n = inflater.inflate(output, offset, rawLength - offset);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != rawLength) {
+                throw new IllegalArgumentException("Compressed payload length mismatch");
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static String readString(ByteBuffer in) {
+        long length = readVarLong(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Corrupt string length");
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), (int) length, StandardCharsets.UTF_8);
+        in.position(in.position() + (int) length);
+        return value;
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        Writer() {
+            super(128);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.onyx.drift.cache;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis স্টোর (ডিফল্ট), RedisConfig.postCacheStore থেকে তৈরি হয়
+ */
+public class RedisPostCacheStore implements PostCacheStore {
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    public RedisPostCacheStore(RedisTemplate<String, byte[]> binaryRedisTemplate) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+    }
+
+    // একটি MGET কমান্ড, তাই যত পোস্টই হোক একটি রাউন্ড ট্রিপ
+    @Override
+    public List<byte[]> multiGet(List<String> keys) {
+        return binaryRedisTemplate.opsForValue().multiGet(keys);
+    }
+
+    // MSET এ TTL দেওয়া যায় না, তাই SET EX কমান্ডগুলো পাইপলাইনে একসাথে পাঠানো হয়
+    @Override
+    public void multiSet(Map<String, byte[]> entries, Duration ttl) {
+        if (entries.isEmpty()) return;
+        Expiration expiration = Expiration.from(ttl);
+        binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                connection.stringCommands().set(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue(),
+                        expiration, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String key) {
+        binaryRedisTemplate.delete(key);
+    }
+
+    @Override
+    public long increment(String key) {
+        Long value = binaryRedisTemplate.opsForValue().increment(key);
+        if (value == null) {
+            throw new IllegalStateException("INCR returned no value for " + key);
+        }
+        return value;
+    }
+}
@@ -1,11 +1,17 @@
 package com.onyx.drift.config;
 
+import com.onyx.drift.cache.InMemoryPostCacheStore;
+import com.onyx.drift.cache.PostCacheStore;
+import com.onyx.drift.cache.PostCodec;
+import com.onyx.drift.cache.RedisPostCacheStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -29,4 +35,31 @@ public class RedisConfig {
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
         return template;
     }
+
+    // পোস্ট ক্যাশের জন্য: ভ্যালু আগেই PostCodec দিয়ে বাইনারি করা, তাই byte[] সরাসরি যায়
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate() {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory());
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    public PostCodec postCodec(@Value("${drift.cache.compress-threshold:512}") int compressThreshold) {
+        return new PostCodec(compressThreshold);
+    }
+
+    // স্টোর রানটাইমে প্রপার্টি পড়ে বেছে নেওয়া হয়; @ConditionalOnProperty হলে AOT বিল্ডের সময়ই ফিক্সড হয়ে যেত
+    @Bean
+    public PostCacheStore postCacheStore(@Value("${drift.cache.store:redis}") String store) {
+        if ("memory".equalsIgnoreCase(store)) {
+            return new InMemoryPostCacheStore();
+        }
+        if (!"redis".equalsIgnoreCase(store)) {
+            throw new IllegalArgumentException("Unknown drift.cache.store: " + store);
+        }
+        return new RedisPostCacheStore(binaryRedisTemplate());
+    }
 }
\ No newline at end of file
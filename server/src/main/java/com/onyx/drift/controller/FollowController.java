@@ -34,6 +34,7 @@ public class FollowController {
         follow.setFollowerUsername(currentUser);
         follow.setFollowingUsername(followingUser);
         followRepository.save(follow);
+        postService.onFollowChanged(currentUser);
 
         // ২. রিয়েল-টাইম নোটিফিকেশন ট্রিগার করা (Point 5 & 6)
         // এটি যাকে ফলো করা হয়েছে তার কাছে মেসেজ পাঠাবে
@@ -56,6 +57,7 @@ public class FollowController {
             @RequestParam String currentUser) {
         
         followRepository.deleteByFollowerUsernameAndFollowingUsername(currentUser, followingUser);
+        postService.onFollowChanged(currentUser);
         return ResponseEntity.ok("Successfully unfollowed " + followingUser);
     }
 }
\ No newline at end of file
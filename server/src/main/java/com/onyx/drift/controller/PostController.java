@@ -1,5 +1,6 @@
 package com.onyx.drift.controller;
 
+import com.onyx.drift.model.FeedPage;
 import com.onyx.drift.model.Post;
 import com.onyx.drift.service.PostService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,10 +34,12 @@ public class PostController {
         return postService.getAllPosts();
     }
 
-    // ২. পার্সোনালাইজড টাইমলাইন
+    // ২. পার্সোনালাইজড টাইমলাইন (পেজ অনুযায়ী): /api/posts/timeline?username=ali&cursor=120
     @GetMapping("/timeline")
-    public List<Post> getUserTimeline(@RequestParam String username) {
-        return postService.getTimeline(username);
+    public List<Post> getUserTimeline(
+            @RequestParam String username,
+            @RequestParam(value = "cursor", required = false) Long cursor) {
+        return postService.getTimeline(username, cursor);
     }
 
     // ৩. ট্রেন্ডিং হ্যাশট্যাগ এপিআই
@@ -45,7 +48,16 @@ public class PostController {
         return postService.getTrendingTags();
     }
 
-    // ৪. নতুন পোস্ট ক্রিয়েট (Flexible Handling)
+    // ৪. হ্যাশট্যাগ ফিড (কার্সর পেজিনেশন): /api/posts/tag/java?cursor=120&limit=20
+    @GetMapping("/tag/{tag}")
+    public FeedPage getTagFeed(
+            @PathVariable String tag,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return postService.getTagFeed(tag, cursor, limit);
+    }
+
+    // ৫. নতুন পোস্ট ক্রিয়েট (Flexible Handling)
     @PostMapping
     public ResponseEntity<?> createPost(
             @RequestParam(value = "text", required = false) String content,
@@ -0,0 +1,15 @@
+package com.onyx.drift.model;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * কার্সর-পেজিনেটেড ফিডের একটি পেজ; nextCursor null হলে আর পোস্ট নেই
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedPage {
+    private List<Post> posts;
+    private Long nextCursor;
+}
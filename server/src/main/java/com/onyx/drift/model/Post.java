@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "posts")
@@ -27,10 +28,12 @@ public class Post implements Serializable {
     private String authorAvatar;
     private LocalDateTime createdAt;
 
+    // ডাটাবেসের TIMESTAMP মাইক্রোসেকেন্ড পর্যন্ত রাখে; সেভের সময়ই কেটে দেওয়া হয়, যাতে ক্যাশের কপি আর ডাটাবেসের সারি একই থাকে
     @PrePersist
     protected void onCreate() {
         if (this.createdAt == null) {
             this.createdAt = LocalDateTime.now();
         }
+        this.createdAt = this.createdAt.truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.onyx.drift.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * পোস্ট -> হ্যাশট্যাগ / মেনশন পোস্টিং (ট্যাগ ফিডের জন্য ইনডেক্সড টেবিল)
+ */
+@Entity
+@Table(name = "post_tags", indexes = {
+        @Index(name = "idx_post_tags_type_tag_post", columnList = "type, tag, post_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTag {
+    public static final String HASHTAG = "HASHTAG";
+    public static final String MENTION = "MENTION";
+    public static final int MAX_TAG_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private String type; // "HASHTAG", "MENTION"
+
+    @Column(nullable = false, length = MAX_TAG_LENGTH)
+    private String tag;  // ছোট হাতের হ্যাশট্যাগ অথবা মেনশন করা ইউজারনেম
+}
@@ -2,9 +2,11 @@ package com.onyx.drift.repository;
 
 import com.onyx.drift.model.Follow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     List<Follow> findByFollowerUsername(String followerUsername);
+    List<Follow> findByFollowingUsernameAndFollowerUsernameIn(String followingUsername, Collection<String> followerUsernames);
     void deleteByFollowerUsernameAndFollowingUsername(String follower, String following);
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.onyx.drift.repository;
 
 import com.onyx.drift.model.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -20,4 +23,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // ৪. সার্চ করার জন্য (অপশনাল কিন্তু দরকারি)
     List<Post> findByContentContainingIgnoreCase(String keyword);
+
+    // ৫. হট স্টেট স্ন্যাপশট বৈধ কিনা যাচাইয়ের জন্য সবচেয়ে নতুন পোস্ট
+    Optional<Post> findTopByOrderByIdDesc();
+
+    // ৬. টাইমলাইন পেজ (আইডি অনুযায়ী নতুন থেকে পুরনো; cursor এর চেয়ে পুরনো পোস্ট)
+    List<Post> findByUsernameInOrderByIdDesc(List<String> usernames, Pageable pageable);
+
+    List<Post> findByUsernameInAndIdLessThanOrderByIdDesc(List<String> usernames, Long cursor, Pageable pageable);
+
+    // ৭. post_tags ব্যাকফিলের জন্য আইডি ক্রমে ব্যাচ (after এর পর থেকে maxId পর্যন্ত)
+    List<Post> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long after, Long maxId, Pageable pageable);
+
+    // ৮. গ্লোবাল ফিড ক্যাশ মিসে শুধু আইডি (পোস্টগুলো ক্যাশ থেকে হাইড্রেট হয়)
+    @Query("SELECT p.id FROM Post p ORDER BY p.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
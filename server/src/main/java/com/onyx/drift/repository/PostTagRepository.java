@@ -0,0 +1,26 @@
+package com.onyx.drift.repository;
+
+import com.onyx.drift.model.PostTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface PostTagRepository extends JpaRepository<PostTag, Long> {
+
+    // ১. ট্যাগ ফিডের প্রথম পেজ (type, tag, post_id ইনডেক্স ব্যবহার করে)
+    List<PostTag> findByTypeAndTagOrderByPostIdDesc(String type, String tag, Pageable pageable);
+
+    // ২. পরের পেজগুলো: কার্সরের চেয়ে পুরনো পোস্ট
+    List<PostTag> findByTypeAndTagAndPostIdLessThanOrderByPostIdDesc(String type, String tag, Long cursor, Pageable pageable);
+
+    // ৩. ট্রেন্ডিং কোল্ড রিবিল্ডের জন্য ট্যাগ অনুযায়ী কাউন্ট: [tag, count]
+    @Query("SELECT t.tag, COUNT(t) FROM PostTag t WHERE t.type = :type GROUP BY t.tag")
+    List<Object[]> countByTagForType(@Param("type") String type);
+
+    // ৪. ব্যাকফিল আগে হয়েছে কিনা: পুরনো পোস্টগুলোর কোনো পোস্টিং আছে কিনা
+    boolean existsByPostIdLessThanEqual(Long postId);
+}
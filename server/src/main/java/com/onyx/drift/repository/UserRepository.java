@@ -2,10 +2,13 @@ package com.onyx.drift.repository;
 
 import com.onyx.drift.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+    List<User> findByUsernameIn(Collection<String> usernames);
 }
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.onyx.drift.service;
+
+import com.onyx.drift.model.Post;
+import com.onyx.drift.model.PostTag;
+import com.onyx.drift.repository.FollowRepository;
+import com.onyx.drift.repository.PostRepository;
+import com.onyx.drift.repository.PostTagRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * প্রসেসের ইন-মেমোরি হট স্টেট (ট্রেন্ডিং কাউন্টার, ইউজার টাইমলাইনের প্রথম পেজ)
+ *
+ * রিস্টার্টের পর কোল্ড স্টার্ট এড়াতে স্টেটটি টাইমারে এবং শাটডাউনে স্ন্যাপশট ফাইলে লেখা হয়।
+ * প্রথম ব্যবহারের সময় ফাইলটি লোড হয়; ফাইল নষ্ট হলে বা ডাটাবেসের সবচেয়ে নতুন পোস্টের সাথে না মিললে
+ * ডাটাবেস থেকে কোল্ড রিবিল্ড হয়। ফাইল কত পুরনো তা দেখা হয় না: পোস্ট আইডি মিললে স্টেট এখনো সঠিক।
+ * ডাটাবেস খালি থাকলে (ইন-মেমোরি H2 রিস্টার্ট) শুধু ট্রেন্ডিং কাউন্টার ফেরত আসে, কারণ টাইমলাইনের পোস্টগুলো আর নেই।
+ */
+@Service
+public class HotStateService {
+
+    public static final int TIMELINE_HEAD_SIZE = 50;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Value("${drift.snapshot.path:snapshot/hot-state.bin}")
+    private String snapshotPath;
+
+    // হ্যাশট্যাগ -> কতবার ব্যবহার হয়েছে
+    private final Map<String, Integer> trendingHashtags = new ConcurrentHashMap<>();
+
+    // ইউজারনেম -> টাইমলাইনের প্রথম পেজের পোস্ট আইডি (নতুনটি আগে); লেখা হয় synchronized(timelineHeads) এর ভেতরে
+    private final Map<String, List<Long>> timelineHeads = new ConcurrentHashMap<>();
+
+    // নতুন পোস্ট বা ফলো পরিবর্তনে বাড়ে, যাতে পুরনো কুয়েরি থেকে তৈরি হেড সেভ না হয়
+    private final AtomicLong timelineVersion = new AtomicLong();
+
+    // এই প্রসেসের জানা সবচেয়ে নতুন পোস্ট আইডি (স্ন্যাপশট বৈধতা যাচাইয়ের জন্য), -1 মানে কোনো পোস্ট নেই
+    private final AtomicLong newestPostId = new AtomicLong(-1);
+
+    private volatile boolean warm = false;
+    private volatile boolean dirty = false;
+
+    public void incrementHashtag(String hashtag) {
+        ensureWarm();
+        trendingHashtags.merge(hashtag, 1, Integer::sum);
+        dirty = true;
+    }
+
+    public Map<String, Integer> getTrendingCounts() {
+        ensureWarm();
+        return Collections.unmodifiableMap(trendingHashtags);
+    }
+
+    /**
+     * নতুন পোস্ট (কমিটের পরে): লেখক ও তার ফলোয়ারদের মধ্যে যাদের টাইমলাইন হেড আছে, তাদের হেডে আইডি যোগ করা।
+     * লেখকের সব ফলোয়ার লোড করা হয় না, শুধু যাদের হেড আছে তাদের মধ্যে ফলোয়ার খোঁজা হয়।
+     */
+    public void recordNewPost(Long postId, String author) {
+        ensureWarm();
+        newestPostId.accumulateAndGet(postId, Math::max);
+
+        // ভার্সন আগে বাড়ানো হয়: এর আগে পড়া কোনো হেড আর সেভ হবে না, আর এর পরে পড়া হেডে পোস্টটি এমনিতেই আছে
+        Set<String> candidates;
+        synchronized (timelineHeads) {
+            timelineVersion.incrementAndGet();
+            candidates = new HashSet<>(timelineHeads.keySet());
+        }
+        candidates.remove(author);
+
+        Set<String> owners = new HashSet<>();
+        owners.add(author);
+        if (!candidates.isEmpty()) {
+            followRepository.findByFollowingUsernameAndFollowerUsernameIn(author, candidates)
+                    .forEach(follow -> owners.add(follow.getFollowerUsername()));
+        }
+
+        synchronized (timelineHeads) {
+            for (String username : owners) {
+                timelineHeads.computeIfPresent(username, (user, head) -> insert(head, postId));
+            }
+        }
+        dirty = true;
+    }
+
+    public Optional<List<Long>> getTimelineHead(String username) {
+        ensureWarm();
+        return Optional.ofNullable(timelineHeads.get(username));
+    }
+
+    public long getTimelineVersion() {
+        ensureWarm();
+        return timelineVersion.get();
+    }
+
+    /**
+     * ডাটাবেস থেকে পড়া প্রথম পেজ হেড হিসেবে রাখা; পড়ার পর নতুন পোস্ট/ফলো এসে থাকলে বাদ দেওয়া হয়
+     */
+    public void putTimelineHead(String username, List<Long> postIds, long versionAtRead) {
+        ensureWarm();
+        synchronized (timelineHeads) {
+            if (timelineVersion.get() != versionAtRead) return;
+            timelineHeads.put(username, List.copyOf(postIds.subList(0, Math.min(postIds.size(), TIMELINE_HEAD_SIZE))));
+        }
+        dirty = true;
+    }
+
+    // ফলো/আনফলো হলে ইউজারের টাইমলাইন বদলে যায়
+    public void invalidateTimelineHead(String username) {
+        ensureWarm();
+        synchronized (timelineHeads) {
+            timelineVersion.incrementAndGet();
+            if (timelineHeads.remove(username) != null) {
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * টাইমারে স্ন্যাপশট লেখা; কোনো পরিবর্তন না থাকলে বা স্টেট লোডই না হলে কিছু করে না
+     */
+    @Scheduled(fixedDelayString = "${drift.snapshot.interval-ms:60000}",
+               initialDelayString = "${drift.snapshot.interval-ms:60000}")
+    public void writeSnapshot() {
+        if (!dirty) return;
+        persistSnapshot();
+    }
+
+    // গ্রেসফুল শাটডাউনে পরিবর্তন না থাকলেও শেষ স্ন্যাপশট লেখা
+    @PreDestroy
+    public void onShutdown() {
+        persistSnapshot();
+    }
+
+    // টাইমার ও শাটডাউন থ্রেড একই টেম্প ফাইলে লেখে, তাই একবারে একটিই লেখা চলে
+    private synchronized void persistSnapshot() {
+        if (!warm) return;
+        dirty = false;
+
+        long newest = newestPostId.get();
+        HotStateSnapshotFile.Contents contents = new HotStateSnapshotFile.Contents(
+                System.currentTimeMillis(),
+                newest >= 0 ? newest : null,
+                new HashMap<>(trendingHashtags),
+                new HashMap<>(timelineHeads));
+        try {
+            HotStateSnapshotFile.write(snapshotFile(), contents);
+        } catch (IOException e) {
+            dirty = true;
+            System.err.println("Snapshot write failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * প্রথম ব্যবহারে স্ন্যাপশট লোড বা কোল্ড রিবিল্ড; নতুন পোস্ট সেভ করার আগে কল করতে হবে
+     */
+    public void ensureWarm() {
+        if (warm) return;
+        synchronized (this) {
+            if (warm) return;
+            if (!restoreSnapshot()) {
+                coldRebuild();
+            }
+            warm = true;
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        Optional<HotStateSnapshotFile.Contents> loaded;
+        try {
+            loaded = HotStateSnapshotFile.read(snapshotFile());
+        } catch (IOException e) {
+            System.err.println("Snapshot read failed: " + e.getMessage());
+            return false;
+        }
+        if (loaded.isEmpty()) {
+            System.out.println("--- No valid hot-state snapshot, rebuilding cold ---");
+            return false;
+        }
+
+        HotStateSnapshotFile.Contents contents = loaded.get();
+        Long databaseNewest = postRepository.findTopByOrderByIdDesc().map(Post::getId).orElse(null);
+        if (databaseNewest == null) {
+            // ইন-মেমোরি ডাটাবেস রিস্টার্টে খালি: ট্রেন্ডিং কাউন্টারের একমাত্র রেকর্ড স্ন্যাপশট,
+            // কিন্তু টাইমলাইন হেডের পোস্টগুলো আর নেই, তাই সেগুলো বাদ
+            trendingHashtags.putAll(contents.trending());
+            System.out.println("--- Database is empty, restored trending counters only ---");
+            return true;
+        }
+        if (!databaseNewest.equals(contents.newestPostId())) {
+            // স্ন্যাপশটের পরে অন্য কোথাও থেকে নতুন পোস্ট এসেছে, বা ডাটাবেস বদলে গেছে
+            System.out.println("--- Hot-state snapshot is stale, rebuilding cold ---");
+            return false;
+        }
+
+        trendingHashtags.putAll(contents.trending());
+        timelineHeads.putAll(contents.timelineHeads());
+        newestPostId.set(databaseNewest);
+        System.out.println("--- Hot state restored from snapshot ---");
+        return true;
+    }
+
+    /**
+     * post_tags ইনডেক্স বাইরে থেকে বদলালে (যেমন ব্যাকফিল) ট্রেন্ডিং কাউন্টার আবার গোনা।
+     * স্টেট এখনো লোড না হলে কিছু করে না, কারণ কোল্ড রিবিল্ড এমনিতেই ইনডেক্স থেকে গুনবে।
+     */
+    public synchronized void reloadTrendingFromIndex() {
+        if (!warm) return;
+        trendingHashtags.clear();
+        loadTrendingFromIndex();
+        dirty = true;
+    }
+
+    private void coldRebuild() {
+        trendingHashtags.clear();
+        timelineHeads.clear();
+        loadTrendingFromIndex();
+        newestPostId.set(postRepository.findTopByOrderByIdDesc().map(Post::getId).orElse(-1L));
+        dirty = true;
+    }
+
+    private void loadTrendingFromIndex() {
+        for (Object[] row : postTagRepository.countByTagForType(PostTag.HASHTAG)) {
+            trendingHashtags.put((String) row[0], ((Number) row[1]).intValue());
+        }
+    }
+
+    // হেড নতুন থেকে পুরনো আইডি ক্রমে থাকে; একসাথে কমিট হওয়া পোস্টগুলোর জন্যও ক্রম ঠিক রেখে বসানো
+    private static List<Long> insert(List<Long> head, Long postId) {
+        if (head.contains(postId)) return head;
+        List<Long> updated = new ArrayList<>(head.size() + 1);
+        boolean inserted = false;
+        for (Long id : head) {
+            if (!inserted && id < postId) {
+                updated.add(postId);
+                inserted = true;
+            }
+            updated.add(id);
+        }
+        if (!inserted) {
+            updated.add(postId);
+        }
+        return List.copyOf(updated.subList(0, Math.min(updated.size(), TIMELINE_HEAD_SIZE)));
+    }
+
+    private Path snapshotFile() {
+        return Paths.get(snapshotPath);
+    }
+}
@@ -0,0 +1,195 @@
+package com.onyx.drift.service;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * হট স্টেট স্ন্যাপশটের বাইনারি ফাইল ফরম্যাট
+ *
+ * হেডার (28 বাইট): MAGIC(int) | VERSION(short) | reserved(short) | createdAt(long) | payloadLength(int) | crc32(long)
+ * পেলোড: newestPostId(long, না থাকলে -1) | trending (count, [tag, value]) | timelineHeads (count, [username, idCount, [postId]])
+ *
+ * ফাইলটি ছোট, তাই memory-map না করে সরাসরি হিপ বাফারে পড়া/লেখা হয়; ম্যাপ করা ফাইল
+ * Windows-এ রিপ্লেস (atomic move) করা যায় না।
+ */
+final class HotStateSnapshotFile {
+
+    static final int MAGIC = 0x4F44534E; // "ODSN"
+    static final short VERSION = 2;
+    private static final int HEADER_SIZE = 28;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int MAX_FILE_SIZE = 64 * 1024 * 1024;
+
+    /** ফাইল থেকে পড়া বা ফাইলে লেখার জন্য হট স্টেটের একটি কপি; newestPostId null মানে তখন কোনো পোস্ট ছিল না */
+    record Contents(long createdAt,
+                    Long newestPostId,
+                    Map<String, Integer> trending,
+                    Map<String, List<Long>> timelineHeads) {
+    }
+
+    private HotStateSnapshotFile() {
+    }
+
+    /**
+     * টেম্প ফাইলে লিখে atomic move করা হয়, যাতে অর্ধেক লেখা ফাইল কখনো লোড না হয়
+     */
+    static void write(Path path, Contents contents) throws IOException {
+        byte[] payload = encodePayload(contents);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(contents.createdAt());
+        buffer.putInt(payload.length);
+        buffer.putLong(crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * ফাইল না থাকলে, ভার্সন না মিললে বা চেকসাম ভুল হলে Optional.empty() রিটার্ন করে
+     */
+    static Optional<Contents> read(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > MAX_FILE_SIZE) {
+                return Optional.empty();
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // পুরো ফাইল পড়া পর্যন্ত
+            }
+            buffer.flip();
+        }
+
+        try {
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                return Optional.empty();
+            }
+            buffer.getShort();
+            long createdAt = buffer.getLong();
+            int payloadLength = buffer.getInt();
+            long expectedCrc = buffer.getLong();
+            if (payloadLength < 0 || payloadLength != buffer.limit() - HEADER_SIZE) {
+                return Optional.empty();
+            }
+
+            ByteBuffer payload = buffer.slice(HEADER_SIZE, payloadLength);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != expectedCrc) {
+                return Optional.empty();
+            }
+            return Optional.of(decodePayload(createdAt, payload));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] encodePayload(Contents contents) {
+        List<byte[]> tags = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        contents.trending().forEach((tag, count) -> {
+            byte[] bytes = tag.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length <= MAX_STRING_BYTES) {
+                tags.add(bytes);
+                counts.add(count);
+            }
+        });
+        List<byte[]> users = new ArrayList<>();
+        List<List<Long>> heads = new ArrayList<>();
+        contents.timelineHeads().forEach((username, postIds) -> {
+            byte[] bytes = username.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length <= MAX_STRING_BYTES) {
+                users.add(bytes);
+                heads.add(postIds);
+            }
+        });
+
+        int size = 8 + 4 + 4;
+        for (byte[] tag : tags) size += 2 + tag.length + 4;
+        for (int i = 0; i < users.size(); i++) size += 2 + users.get(i).length + 4 + heads.get(i).size() * 8;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(contents.newestPostId() != null ? contents.newestPostId() : -1L);
+        buffer.putInt(tags.size());
+        for (int i = 0; i < tags.size(); i++) {
+            putString(buffer, tags.get(i));
+            buffer.putInt(counts.get(i));
+        }
+        buffer.putInt(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            putString(buffer, users.get(i));
+            buffer.putInt(heads.get(i).size());
+            for (Long postId : heads.get(i)) {
+                buffer.putLong(postId);
+            }
+        }
+        return buffer.array();
+    }
+
+    private static Contents decodePayload(long createdAt, ByteBuffer buffer) {
+        long newest = buffer.getLong();
+        Long newestPostId = newest >= 0 ? newest : null;
+
+        int tagCount = buffer.getInt();
+        Map<String, Integer> trending = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            trending.put(getString(buffer), buffer.getInt());
+        }
+        int userCount = buffer.getInt();
+        Map<String, List<Long>> timelineHeads = new HashMap<>();
+        for (int i = 0; i < userCount; i++) {
+            String username = getString(buffer);
+            int idCount = buffer.getInt();
+            if (idCount < 0 || idCount > buffer.remaining() / 8) {
+                throw new IllegalArgumentException("Corrupt timeline head");
+            }
+            List<Long> postIds = new ArrayList<>(idCount);
+            for (int j = 0; j < idCount; j++) {
+                postIds.add(buffer.getLong());
+            }
+            timelineHeads.put(username, List.copyOf(postIds));
+        }
+        return new Contents(createdAt, newestPostId, trending, timelineHeads);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,8 +1,10 @@
 package com.onyx.drift.service;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 @Service
+@Lazy // নন-ক্রিটিক্যাল বিন, স্টার্টআপে তৈরি না করে প্রথম ব্যবহারে তৈরি হবে
 public class KafkaConsumerService {
     // আপাতত KafkaListener বন্ধ রাখা হলো যাতে এরর না আসে
     /* public void listen(String message) {
@@ -1,8 +1,10 @@
 package com.onyx.drift.service;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 @Service
+@Lazy // নন-ক্রিটিক্যাল বিন, প্রথম নোটিফিকেশন পাঠানোর সময় তৈরি হবে
 public class KafkaProducerService {
 
     // Kafka নেই, তাই আমরা শুধু কনসোলে প্রিন্ট করবো
@@ -0,0 +1,200 @@
+package com.onyx.drift.service;
+
+import com.onyx.drift.cache.PostCacheStore;
+import com.onyx.drift.cache.PostCodec;
+import com.onyx.drift.model.Post;
+import com.onyx.drift.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * পোস্ট ক্যাশ (Point 4 - Redis Cache)
+ *
+ * প্রতিটি পোস্ট আলাদা কী-তে (post:{id}) এবং ফিড শুধু আইডি লিস্ট হিসেবে PostCodec দিয়ে রাখা হয়।
+ * ফিড পড়ার সময় এক multi-get এ সব পোস্ট হাইড্রেট হয়; মিস হওয়া পোস্টগুলো এক কুয়েরিতে ডাটাবেস থেকে আসে।
+ *
+ * গ্লোবাল ফিডের কী-তে একটি জেনারেশন থাকে (feed:all:{gen}, gen রাখা হয় feed:gen এ)। নতুন পোস্ট কমিট হলে
+ * gen বাড়ে এবং আগের লিস্টে আইডিটি যোগ করে নতুন কী-তে লেখা হয়, তাই পুরো ফিড আবার তৈরি করতে হয় না।
+ * কমিটের আগে শুরু হওয়া কোনো রিড পুরনো লিস্ট লিখলেও সেটি পুরনো জেনারেশনের কী-তে যায়, যা আর কেউ পড়ে না।
+ * ক্যাশ পাওয়া না গেলে (Redis ডাউন বা নষ্ট ডাটা) সরাসরি ডাটাবেস ব্যবহার হয়।
+ */
+@Service
+public class PostCacheService {
+
+    private static final String POST_KEY_PREFIX = "post:";
+    private static final String GLOBAL_FEED_KEY_PREFIX = "feed:all:";
+    private static final String FEED_GENERATION_KEY = "feed:gen";
+
+    @Autowired
+    private PostCacheStore postCacheStore;
+
+    @Autowired
+    private PostCodec postCodec;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Value("${drift.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * আইডি লিস্ট থেকে পোস্ট হাইড্রেট করা, আইডির ক্রম অনুযায়ী
+     */
+    public List<Post> getPosts(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        Map<Long, Post> postsById = new HashMap<>();
+        List<byte[]> cached = safeMultiGet(ids.stream().map(PostCacheService::postKey).collect(Collectors.toList()));
+        for (int i = 0; i < ids.size(); i++) {
+            byte[] bytes = cached.get(i);
+            if (bytes == null) continue;
+            try {
+                postsById.put(ids.get(i), postCodec.decodePost(bytes));
+            } catch (IllegalArgumentException e) {
+                // পুরনো ভার্সন বা নষ্ট এন্ট্রি: মিস হিসেবে ধরে ডাটাবেস থেকে আবার লেখা হবে
+            }
+        }
+
+        List<Long> missing = ids.stream()
+                .filter(id -> !postsById.containsKey(id))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            List<Post> loaded = postRepository.findAllById(missing);
+            loaded.forEach(post -> postsById.put(post.getId(), post));
+            safeMultiSet(encodePosts(loaded));
+        }
+
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * গ্লোবাল ফিড (আইডি অনুযায়ী পুরনো থেকে নতুন): ক্যাশে আইডি লিস্ট থাকলে multi-get দিয়ে হাইড্রেশন,
+     * না থাকলে ডাটাবেস থেকে শুধু আইডি এনে একইভাবে হাইড্রেশন, যাতে শুধু মিস হওয়া পোস্টগুলো লেখা হয়
+     */
+    public List<Post> getGlobalFeed() {
+        // জেনারেশন আগে পড়া হয়, তাই এর পরে কমিট হওয়া পোস্ট থাকলে নিচে লেখা লিস্টটি পুরনো কী-তে যায়
+        String feedKey = globalFeedKey(readFeedGeneration());
+        byte[] cachedFeed = safeMultiGet(List.of(feedKey)).get(0);
+        if (cachedFeed != null) {
+            try {
+                return getPosts(postCodec.decodeFeed(cachedFeed).ids());
+            } catch (IllegalArgumentException e) {
+                // নষ্ট ফিড এন্ট্রি: নিচে আবার তৈরি হবে
+            }
+        }
+
+        System.out.println("--- Fetching post ids from MySQL Database ---");
+        List<Long> ids = postRepository.findAllIds();
+        List<Post> posts = getPosts(ids);
+        safeMultiSet(Map.of(feedKey, postCodec.encodeFeed(ids, null)));
+        return posts;
+    }
+
+    /**
+     * নতুন পোস্ট: পোস্টটি ক্যাশে লেখা, ফিড জেনারেশন বাড়ানো এবং আগের আইডি লিস্টে পোস্টটি যোগ করে নতুন কী-তে লেখা।
+     * ট্রানজ্যাকশন চললে কমিটের পরে করা হয়, যাতে ডাটাবেস থেকে ফিড বানানো কেউ পোস্টটি বাদ না দেয়।
+     */
+    public void onPostCreated(Post post) {
+        Runnable update = () -> {
+            safeMultiSet(encodePosts(List.of(post)));
+            appendToGlobalFeed(post.getId());
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private void appendToGlobalFeed(Long postId) {
+        long generation;
+        try {
+            generation = postCacheStore.increment(FEED_GENERATION_KEY);
+        } catch (RuntimeException e) {
+            System.err.println("Post cache write failed: " + e.getMessage());
+            return;
+        }
+
+        // আগের জেনারেশনের লিস্ট না থাকলে কিছু করার নেই: পরের রিড ডাটাবেস থেকে নতুন কী-তে লিখবে
+        byte[] previous = safeMultiGet(List.of(globalFeedKey(generation - 1))).get(0);
+        if (previous == null) return;
+
+        List<Long> ids;
+        try {
+            ids = new ArrayList<>(postCodec.decodeFeed(previous).ids());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        // লিস্ট আইডি অনুযায়ী সাজানো; একসাথে কমিট হওয়া পোস্টগুলোর ক্রম ঠিক রাখতে সঠিক জায়গায় বসানো
+        int position = Collections.binarySearch(ids, postId);
+        if (position < 0) {
+            ids.add(-position - 1, postId);
+        }
+        safeMultiSet(Map.of(globalFeedKey(generation), postCodec.encodeFeed(ids, null)));
+    }
+
+    // feed:gen না থাকলে বা পড়া না গেলে 0
+    private long readFeedGeneration() {
+        byte[] value = safeMultiGet(List.of(FEED_GENERATION_KEY)).get(0);
+        if (value == null) return 0;
+        try {
+            return Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private Map<String, byte[]> encodePosts(List<Post> posts) {
+        Map<String, byte[]> entries = new HashMap<>();
+        for (Post post : posts) {
+            entries.put(postKey(post.getId()), postCodec.encodePost(post));
+        }
+        return entries;
+    }
+
+    private List<byte[]> safeMultiGet(List<String> keys) {
+        try {
+            List<byte[]> values = postCacheStore.multiGet(keys);
+            if (values != null && values.size() == keys.size()) {
+                return values;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Post cache read failed: " + e.getMessage());
+        }
+        return Collections.nCopies(keys.size(), null);
+    }
+
+    private void safeMultiSet(Map<String, byte[]> entries) {
+        if (entries.isEmpty()) return;
+        try {
+            postCacheStore.multiSet(entries, Duration.ofSeconds(ttlSeconds));
+        } catch (RuntimeException e) {
+            System.err.println("Post cache write failed: " + e.getMessage());
+        }
+    }
+
+    private static String postKey(Long id) {
+        return POST_KEY_PREFIX + id;
+    }
+
+    private static String globalFeedKey(long generation) {
+        return GLOBAL_FEED_KEY_PREFIX + generation;
+    }
+}
@@ -1,20 +1,28 @@
 package com.onyx.drift.service;
 
+import com.onyx.drift.model.FeedPage;
 import com.onyx.drift.model.Post;
 import com.onyx.drift.model.Follow;
 import com.onyx.drift.model.Notification;
+import com.onyx.drift.model.PostTag;
+import com.onyx.drift.model.User;
 import com.onyx.drift.repository.PostRepository;
+import com.onyx.drift.repository.PostTagRepository;
 import com.onyx.drift.repository.FollowRepository;
 import com.onyx.drift.repository.NotificationRepository;
+import com.onyx.drift.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,55 +37,159 @@ public class PostService {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
-    // [Point 5] Kafka Producer Service ইনজেক্ট করা
+    // [Point 5] Kafka Producer Service ইনজেক্ট করা (@Lazy প্রক্সি, স্টার্টআপে তৈরি হয় না)
     @Autowired
+    @Lazy
     private KafkaProducerService kafkaProducerService;
 
-    // হ্যাশট্যাগ স্টোর করার ম্যাপ (Point 3 - Trends)
-    private Map<String, Integer> trendingHashtags = new HashMap<>();
+    // ট্রেন্ডিং কাউন্টার ও টাইমলাইন হেড (Point 3 - Trends), রিস্টার্টে স্ন্যাপশট থেকে ফেরত আসে
+    @Autowired
+    private HotStateService hotStateService;
+
+    // বাইনারি পোস্ট ক্যাশ (Point 4 - Redis Cache): পোস্ট আলাদা কী-তে, ফিড আইডি লিস্ট হিসেবে
+    @Autowired
+    private PostCacheService postCacheService;
+
+    private static final int MAX_TAG_FEED_LIMIT = 100;
+    private static final int TIMELINE_PAGE_SIZE = HotStateService.TIMELINE_HEAD_SIZE;
+    private static final int TAG_BACKFILL_BATCH_SIZE = 500;
 
     /**
      * নতুন পোস্ট তৈরি করা (Point 3, 4, 7, 8)
      */
-    @CacheEvict(value = "posts", allEntries = true)
+    @Transactional
     public Post createPost(Post post) {
-        // ১. পোস্টের টেক্সট থেকে হ্যাশট্যাগ বের করা
-        extractAndStoreHashtags(post.getContent());
-        
-        // ২. ডাটাবেসে পোস্ট সেভ করা
-        return postRepository.save(post);
+        // হট স্টেট আগে লোড করা, যাতে নতুন পোস্টটি স্ন্যাপশটকে stale না বানায়
+        hotStateService.ensureWarm();
+
+        // ১. ডাটাবেসে পোস্ট সেভ করা
+        Post savedPost = postRepository.save(post);
+
+        // ২. এক পাসে হ্যাশট্যাগ ও মেনশন বের করে ইনডেক্সে লেখা; ট্রেন্ডিং ও মেনশন নোটিফিকেশন কমিটের পরে
+        indexTokens(savedPost, PostTokenizer.tokenize(savedPost.getContent()));
+
+        // ৩. কমিটের পরে লেখক ও ফলোয়ারদের টাইমলাইন হেডে নতুন পোস্ট যোগ করা (Point 8 - Feed System)
+        afterCommit(() -> hotStateService.recordNewPost(savedPost.getId(), savedPost.getUsername()));
+
+        // ৪. পোস্ট ক্যাশে লেখা এবং গ্লোবাল ফিডের আইডি লিস্টে যোগ করে নতুন জেনারেশনে রাখা (কমিটের পরে)
+        postCacheService.onPostCreated(savedPost);
+        return savedPost;
     }
 
     /**
      * গ্লোবাল ফিড: সব পোস্ট দেখাবে (Point 4 - Redis Cache)
      */
-    @Cacheable(value = "posts")
     public List<Post> getAllPosts() {
-        System.out.println("--- Fetching all posts from MySQL Database ---");
-        return postRepository.findAll();
+        return postCacheService.getGlobalFeed();
     }
 
     /**
      * টুইটার টাইমলাইন লজিক (Point 8 - Feed System)
+     * প্রথম পেজ (cursor ছাড়া) হট স্টেটের টাইমলাইন হেড থেকে আইডি দিয়ে হাইড্রেট হয়;
+     * পরের পেজের জন্য cursor হলো আগের পেজের শেষ পোস্টের আইডি
      */
-    public List<Post> getTimeline(String currentUsername) {
+    public List<Post> getTimeline(String currentUsername, Long cursor) {
+        if (cursor == null) {
+            Optional<List<Long>> head = hotStateService.getTimelineHead(currentUsername);
+            if (head.isPresent()) {
+                return postCacheService.getPosts(head.get());
+            }
+        }
+
         List<String> followingList = followRepository.findByFollowerUsername(currentUsername)
                 .stream()
                 .map(Follow::getFollowingUsername)
                 .collect(Collectors.toList());
         
         followingList.add(currentUsername); 
-        return postRepository.findByUsernameInOrderByCreatedAtDesc(followingList);
+        PageRequest page = PageRequest.of(0, TIMELINE_PAGE_SIZE);
+        if (cursor != null) {
+            return postRepository.findByUsernameInAndIdLessThanOrderByIdDesc(followingList, cursor, page);
+        }
+
+        // প্রথম পেজ ডাটাবেস থেকে এনে ইউজারের টাইমলাইন হেড হিসেবে রাখা
+        long version = hotStateService.getTimelineVersion();
+        List<Post> timeline = postRepository.findByUsernameInOrderByIdDesc(followingList, page);
+        hotStateService.putTimelineHead(currentUsername,
+                timeline.stream().map(Post::getId).collect(Collectors.toList()), version);
+        return timeline;
+    }
+
+    // ফলো/আনফলোর পরে ইউজারের টাইমলাইন হেড বাদ দেওয়া
+    public void onFollowChanged(String followerUsername) {
+        hotStateService.invalidateTimelineHead(followerUsername);
+    }
+
+    /**
+     * হ্যাশট্যাগ ফিড: post_tags ইনডেক্স থেকে কার্সর পেজিনেশন (LIKE স্ক্যান ছাড়া)
+     * cursor হলো আগের পেজের শেষ পোস্টের আইডি; প্রথম পেজের জন্য null
+     */
+    public FeedPage getTagFeed(String tag, Long cursor, int limit) {
+        String normalizedTag = (tag.startsWith("#") ? tag.substring(1) : tag).toLowerCase();
+        int pageSize = Math.max(1, Math.min(limit, MAX_TAG_FEED_LIMIT));
+        PageRequest page = PageRequest.of(0, pageSize);
+
+        List<PostTag> postings = cursor == null
+                ? postTagRepository.findByTypeAndTagOrderByPostIdDesc(PostTag.HASHTAG, normalizedTag, page)
+                : postTagRepository.findByTypeAndTagAndPostIdLessThanOrderByPostIdDesc(PostTag.HASHTAG, normalizedTag, cursor, page);
+
+        // পোস্টগুলো ক্যাশ থেকে এক multi-get এ হাইড্রেট করা
+        List<Long> postIds = postings.stream().map(PostTag::getPostId).collect(Collectors.toList());
+        List<Post> posts = postCacheService.getPosts(postIds);
+
+        Long nextCursor = postings.size() == pageSize ? postIds.get(postIds.size() - 1) : null;
+        return new FeedPage(posts, nextCursor);
+    }
+
+    /**
+     * post_tags টেবিল আসার আগের পোস্টগুলো একবার ইনডেক্স করা (অ্যাপ চালু হওয়ার পরে)
+     *
+     * স্টার্টআপের সময়ের সবচেয়ে নতুন পোস্ট পর্যন্ত কোনো পোস্টিং না থাকলেই চলে, তাই পরে আর চলে না।
+     * পুরনো পোস্টগুলোর জন্য মেনশন নোটিফিকেশন পাঠানো হয় না। কোনো পুরনো পোস্টেই ট্যাগ না থাকলে
+     * প্রতি স্টার্টআপে একবার স্ক্যান হয় (ফলাফল একই, শুধু সময় লাগে)।
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTagIndex() {
+        Long maxId = postRepository.findTopByOrderByIdDesc().map(Post::getId).orElse(null);
+        if (maxId == null || postTagRepository.existsByPostIdLessThanEqual(maxId)) return;
+
+        long after = 0;
+        int indexed = 0;
+        PageRequest batchPage = PageRequest.of(0, TAG_BACKFILL_BATCH_SIZE);
+        while (true) {
+            List<Post> batch = postRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(after, maxId, batchPage);
+            if (batch.isEmpty()) break;
+
+            List<PostTag> postings = new ArrayList<>();
+            for (Post post : batch) {
+                PostTokenizer.Tokens tokens = PostTokenizer.tokenize(post.getContent());
+                postings.addAll(buildPostings(post.getId(), tokens.hashtags(), resolveMentions(tokens)));
+            }
+            postTagRepository.saveAll(postings);
+            indexed += postings.size();
+            after = batch.get(batch.size() - 1).getId();
+        }
+
+        if (indexed > 0) {
+            hotStateService.reloadTrendingFromIndex();
+        }
+        System.out.println("--- Backfilled " + indexed + " post tags up to post " + maxId + " ---");
     }
 
     /**
      * ট্রেন্ডিং হ্যাশট্যাগ লিস্ট (Point 3 - Trends)
      */
     public List<String> getTrendingTags() {
-        return trendingHashtags.entrySet().stream()
+        return hotStateService.getTrendingCounts().entrySet().stream()
                 .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
                 .limit(10)
                 .map(Map.Entry::getKey)
@@ -89,37 +201,107 @@ public class PostService {
      * এখন এটি Kafka এবং WebSocket উভয়ই ব্যবহার করে।
      */
     public void sendNotification(String sender, String recipient, String type) {
+        Notification notification = buildNotification(sender, recipient, type);
+        String message = notification.getMessage();
+
+        // ১. [Point 5] Kafka-তে ইভেন্ট পাঠানো (Asynchronous Processing)
+        kafkaProducerService.sendMessage("notification-topic", message + " to: " + recipient);
+
+        // ২. ডাটাবেসে সেভ করা (Persistence)
+        notificationRepository.save(notification);
+
+        // ৩. [Point 6] রিয়েল-টাইমে পাঠানো (WebSocket)
+        messagingTemplate.convertAndSendToUser(recipient, "/topic/notifications", notification);
+    }
+
+    /**
+     * মেনশন নোটিফিকেশন ব্যাচে: পোস্টের ট্রানজ্যাকশনেই একবারে সেভ, আর Kafka-তে একটি ইভেন্ট ও
+     * প্রত্যেককে WebSocket কমিটের পরে, যাতে রোলব্যাক হওয়া পোস্টের নোটিফিকেশন বাইরে না যায়
+     */
+    private void sendMentionNotifications(String sender, List<String> recipients) {
+        List<Notification> notifications = recipients.stream()
+                .filter(recipient -> !recipient.equals(sender))
+                .map(recipient -> buildNotification(sender, recipient, "MENTION"))
+                .collect(Collectors.toList());
+        if (notifications.isEmpty()) return;
+
+        notificationRepository.saveAll(notifications);
+
+        afterCommit(() -> {
+            kafkaProducerService.sendMessage("notification-topic", sender + " mentioned " + notifications.size()
+                    + " users to: " + notifications.stream().map(Notification::getRecipient).collect(Collectors.joining(",")));
+
+            for (Notification notification : notifications) {
+                messagingTemplate.convertAndSendToUser(notification.getRecipient(), "/topic/notifications", notification);
+            }
+        });
+    }
+
+    private Notification buildNotification(String sender, String recipient, String type) {
         Notification notification = new Notification();
         notification.setSender(sender);
         notification.setRecipient(recipient);
         notification.setType(type);
-        
+
         String message = "";
         if ("FOLLOW".equals(type)) {
             message = sender + " started following you!";
         } else if ("LIKE".equals(type)) {
             message = sender + " liked your post!";
+        } else if ("MENTION".equals(type)) {
+            message = sender + " mentioned you in a post!";
         }
         notification.setMessage(message);
+        return notification;
+    }
 
-        // ১. [Point 5] Kafka-তে ইভেন্ট পাঠানো (Asynchronous Processing)
-        kafkaProducerService.sendMessage("notification-topic", message + " to: " + recipient);
+    // ট্রানজ্যাকশন চললে কমিটের পরে চালানো, যাতে রোলব্যাক হলে ইন-মেমোরি স্টেট বা নোটিফিকেশন না বদলায়।
+    // এখানে ডাটাবেসে লেখা যাবে না: কমিট হয়ে যাওয়া ট্রানজ্যাকশনে যোগ হয়ে লেখাটি হারিয়ে যায়।
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 
-        // ২. ডাটাবেসে সেভ করা (Persistence)
-        notificationRepository.save(notification);
+    // হ্যাশট্যাগ ও মেনশন পোস্টিং post_tags টেবিলে লেখা (Point 3 - Trends)
+    private void indexTokens(Post post, PostTokenizer.Tokens tokens) {
+        List<String> mentionedUsers = resolveMentions(tokens);
+        List<PostTag> postings = buildPostings(post.getId(), tokens.hashtags(), mentionedUsers);
+        if (!postings.isEmpty()) {
+            postTagRepository.saveAll(postings);
+        }
 
-        // ৩. [Point 6] রিয়েল-টাইমে পাঠানো (WebSocket)
-        messagingTemplate.convertAndSendToUser(recipient, "/topic/notifications", notification);
+        // ইন-মেমোরি ট্রেন্ডিং কাউন্টার কমিটের পরে, যাতে রোলব্যাক হওয়া পোস্ট গোনা না হয়
+        if (!tokens.hashtags().isEmpty()) {
+            afterCommit(() -> tokens.hashtags().forEach(hotStateService::incrementHashtag));
+        }
+        sendMentionNotifications(post.getUsername(), mentionedUsers);
     }
 
-    // হ্যাশট্যাগ খুঁজে বের করার ইন্টারনাল লজিক
-    private void extractAndStoreHashtags(String text) {
-        if (text == null) return;
-        Pattern pattern = Pattern.compile("#(\\w+)");
-        Matcher matcher = pattern.matcher(text);
-        while (matcher.find()) {
-            String hashtag = matcher.group(1).toLowerCase();
-            trendingHashtags.put(hashtag, trendingHashtags.getOrDefault(hashtag, 0) + 1);
+    // শুধু যেসব ইউজার আসলেই আছে তাদের মেনশন রাখা হয় (এক কুয়েরিতে)
+    private List<String> resolveMentions(PostTokenizer.Tokens tokens) {
+        if (tokens.mentions().isEmpty()) return List.of();
+        return userRepository.findByUsernameIn(tokens.mentions()).stream()
+                .map(User::getUsername)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static List<PostTag> buildPostings(Long postId, Collection<String> hashtags, Collection<String> mentionedUsers) {
+        List<PostTag> postings = new ArrayList<>(hashtags.size() + mentionedUsers.size());
+        for (String hashtag : hashtags) {
+            postings.add(new PostTag(null, postId, PostTag.HASHTAG, hashtag));
+        }
+        for (String username : mentionedUsers) {
+            postings.add(new PostTag(null, postId, PostTag.MENTION, username));
         }
+        return postings;
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.onyx.drift.service;
+
+import com.onyx.drift.model.PostTag;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * পোস্টের টেক্সট একবার স্ক্যান করে হ্যাশট্যাগ (#tag) এবং মেনশন (@username) বের করে
+ *
+ * টোকেন শুধু শব্দের শুরুতে ধরা হয়, তাই "a@b.com" বা "C#" মেনশন/ট্যাগ হিসেবে গণ্য হয় না।
+ * হ্যাশট্যাগ ছোট হাতের করা হয়, মেনশন যেমন লেখা তেমনই থাকে। একই পোস্টে ডুপ্লিকেট বাদ যায়।
+ * post_tags.tag কলামের চেয়ে লম্বা টোকেন বাদ দেওয়া হয়, যাতে পুরো পোস্ট সেভ ব্যর্থ না হয়।
+ */
+final class PostTokenizer {
+
+    record Tokens(Set<String> hashtags, Set<String> mentions) {
+        static final Tokens EMPTY = new Tokens(Collections.emptySet(), Collections.emptySet());
+    }
+
+    private PostTokenizer() {
+    }
+
+    static Tokens tokenize(String text) {
+        if (text == null || text.isEmpty()) return Tokens.EMPTY;
+
+        Set<String> hashtags = new LinkedHashSet<>();
+        Set<String> mentions = new LinkedHashSet<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            boolean atWordStart = i == 0 || !isWordChar(text.charAt(i - 1));
+            if ((c == '#' || c == '@') && atWordStart) {
+                int start = i + 1;
+                int end = start;
+                while (end < length && isWordChar(text.charAt(end))) {
+                    end++;
+                }
+                if (end > start && end - start <= PostTag.MAX_TAG_LENGTH) {
+                    String token = text.substring(start, end);
+                    if (c == '#') {
+                        hashtags.add(token.toLowerCase());
+                    } else {
+                        mentions.add(token);
+                    }
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return new Tokens(hashtags, mentions);
+    }
+
+    // বাংলা কারচিহ্ন (যেমন "া") combining mark, তাই সেগুলোও শব্দের অংশ
+    private static boolean isWordChar(char c) {
+        if (Character.isLetterOrDigit(c) || c == '_') return true;
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+}
@@ -0,0 +1,62 @@
+package com.onyx.drift.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPostCacheStoreTest {
+
+    private final InMemoryPostCacheStore store = new InMemoryPostCacheStore();
+
+    @Test
+    void returnsValuesInKeyOrderWithNullForMisses() {
+        store.multiSet(Map.of("a", new byte[]{1}, "c", new byte[]{3}), Duration.ofMinutes(1));
+
+        List<byte[]> values = store.multiGet(List.of("c", "b", "a"));
+
+        assertArrayEquals(new byte[]{3}, values.get(0));
+        assertNull(values.get(1));
+        assertArrayEquals(new byte[]{1}, values.get(2));
+    }
+
+    @Test
+    void expiredEntriesAreMisses() {
+        store.multiSet(Map.of("a", new byte[]{1}), Duration.ZERO);
+
+        assertNull(store.multiGet(List.of("a")).get(0));
+    }
+
+    @Test
+    void unreadExpiredEntriesAreSweptOnWrite() {
+        for (int i = 0; i < InMemoryPostCacheStore.SWEEP_EVERY_WRITES - 1; i++) {
+            store.multiSet(Map.of("feed:all:" + i, new byte[]{1}), Duration.ZERO);
+        }
+        assertEquals(InMemoryPostCacheStore.SWEEP_EVERY_WRITES - 1, store.size());
+
+        store.multiSet(Map.of("post:1", new byte[]{1}), Duration.ofMinutes(1));
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void incrementCountsFromZeroAndIsReadableAsAscii() {
+        assertEquals(1L, store.increment("feed:gen"));
+        assertEquals(2L, store.increment("feed:gen"));
+
+        assertEquals("2", new String(store.multiGet(List.of("feed:gen")).get(0)));
+    }
+
+    @Test
+    void storesCopiesOfValues() {
+        byte[] value = {1, 2};
+        store.multiSet(Map.of("a", value), Duration.ofMinutes(1));
+        Arrays.fill(value, (byte) 0);
+
+        assertArrayEquals(new byte[]{1, 2}, store.multiGet(List.of("a")).get(0));
+    }
+}
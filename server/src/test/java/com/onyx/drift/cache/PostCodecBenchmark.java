@@ -0,0 +1,125 @@
+package com.onyx.drift.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onyx.drift.model.Post;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * পেলোড সাইজ ও ডিকোড টাইম বেঞ্চমার্ক: PostCodec বনাম আগের সিরিয়ালাইজার
+ * (RedisConfig এর GenericJackson2JsonRedisSerializer এবং @Cacheable এর ডিফল্ট JDK সিরিয়ালাইজেশন)
+ *
+ * চালানো: ./codec-bench.sh [feedSize] (টেস্ট সোর্সে থাকে, তাই অ্যাপের jar এ যায় না)
+ */
+public class PostCodecBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1000;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int feedSize = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        List<Post> posts = samplePosts(feedSize);
+        Post single = posts.get(0);
+
+        // আগের সেটআপ: LocalDateTime এর জন্য JavaTimeModule সহ টাইপ-মেটাডেটা যুক্ত JSON
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(mapper);
+        RedisSerializer<Object> jdk = new JdkSerializationRedisSerializer();
+        PostCodec codec = new PostCodec(512);
+
+        ArrayList<Post> feedBlob = new ArrayList<>(posts);
+        List<Long> ids = posts.stream().map(Post::getId).toList();
+
+        byte[] jsonPost = json.serialize(single);
+        byte[] jdkPost = jdk.serialize(single);
+        byte[] codecPost = codec.encodePost(single);
+
+        byte[] jsonFeed = json.serialize(feedBlob);
+        byte[] jdkFeed = jdk.serialize(feedBlob);
+        byte[] codecFeedIds = codec.encodeFeed(ids, null);
+        List<byte[]> codecFeedPosts = posts.stream().map(codec::encodePost).toList();
+        long codecFeedTotal = codecFeedIds.length + codecFeedPosts.stream().mapToLong(b -> b.length).sum();
+
+        System.out.println("== Payload size (bytes) ==");
+        System.out.printf("%-28s %10s %10s %10s%n", "", "jackson", "jdk", "codec");
+        System.out.printf("%-28s %10d %10d %10d%n", "single post", jsonPost.length, jdkPost.length, codecPost.length);
+        System.out.printf("%-28s %10d %10d %10d%n", "feed of " + feedSize + " (total)", jsonFeed.length, jdkFeed.length, codecFeedTotal);
+        // নতুন পোস্টে কোডেক পোস্টটি লেখে এবং আগের আইডি লিস্ট পড়ে পুরো লিস্ট নতুন feed:all:{gen} কী-তে আবার লেখে
+        System.out.printf("%-28s %10d %10d %10d%n", "feed write after new post", jsonFeed.length, jdkFeed.length,
+                codecPost.length + codecFeedIds.length);
+        System.out.printf("%-28s %10s %10s %10d%n", "feed id list only", "-", "-", codecFeedIds.length);
+
+        System.out.println();
+        System.out.println("== Decode time (microseconds/op) ==");
+        System.out.printf("%-28s %10s %10s %10s%n", "", "jackson", "jdk", "codec");
+        System.out.printf("%-28s %10.2f %10.2f %10.2f%n", "single post",
+                measure(() -> json.deserialize(jsonPost)),
+                measure(() -> jdk.deserialize(jdkPost)),
+                measure(() -> codec.decodePost(codecPost)));
+        System.out.printf("%-28s %10.2f %10.2f %10.2f%n", "feed of " + feedSize,
+                measure(() -> json.deserialize(jsonFeed)),
+                measure(() -> jdk.deserialize(jdkFeed)),
+                measure(() -> {
+                    List<Post> hydrated = new ArrayList<>(feedSize);
+                    codec.decodeFeed(codecFeedIds);
+                    for (byte[] bytes : codecFeedPosts) {
+                        hydrated.add(codec.decodePost(bytes));
+                    }
+                    return hydrated;
+                }));
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static double measure(Supplier<Object> decode) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += System.identityHashCode(decode.get());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += System.identityHashCode(decode.get());
+        }
+        return (System.nanoTime() - start) / 1000.0 / MEASURE_ROUNDS;
+    }
+
+    // বাস্তবের কাছাকাছি পোস্ট: বাংলা/ইংরেজি টেক্সট, হ্যাশট্যাগ, কিছু পোস্টে মিডিয়া
+    private static List<Post> samplePosts(int count) {
+        Random random = new Random(42);
+        String[] words = {"আজ", "অনেক", "সুন্দর", "দিন", "#onyx", "#drift", "@rahim", "coffee", "deploy", "বৃষ্টি",
+                "release", "#java", "ঢাকা", "weekend", "new", "feature", "ভালো", "লাগছে", "#spring", "friends"};
+        List<Post> posts = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            StringBuilder content = new StringBuilder();
+            int length = 8 + random.nextInt(30);
+            for (int w = 0; w < length; w++) {
+                content.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            Post post = new Post();
+            post.setId((long) (count - i));
+            post.setUsername("user" + random.nextInt(1000));
+            post.setContent(content.toString().trim());
+            post.setAuthorAvatar("https://res.cloudinary.com/onyx/image/upload/avatars/" + post.getUsername() + ".png");
+            if (random.nextInt(10) < 3) {
+                post.setMediaUrl("/uploads/" + Long.toHexString(random.nextLong()) + "_photo.jpg");
+                post.setMediaType("image");
+            }
+            post.setCreatedAt(now.minusMinutes(i * 7L));
+            posts.add(post);
+        }
+        return posts;
+    }
+}
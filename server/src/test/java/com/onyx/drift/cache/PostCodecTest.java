@@ -0,0 +1,118 @@
+package com.onyx.drift.cache;
+
+import com.onyx.drift.model.Post;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostCodecTest {
+
+    // হেডারের তৃতীয় বাইট: FLAGS
+    private static final int FLAGS_INDEX = 2;
+
+    private final PostCodec codec = new PostCodec(512);
+
+    @Test
+    void roundTripsPostWithNullFields() {
+        Post post = new Post();
+        post.setId(7L);
+        post.setContent("hello");
+
+        Post decoded = codec.decodePost(codec.encodePost(post));
+
+        assertEquals(post, decoded);
+        assertNull(decoded.getUsername());
+        assertNull(decoded.getMediaUrl());
+        assertNull(decoded.getCreatedAt());
+    }
+
+    @Test
+    void roundTripsEmptyPost() {
+        assertEquals(new Post(), codec.decodePost(codec.encodePost(new Post())));
+    }
+
+    @Test
+    void roundTripsBengaliTextAndTimestamp() {
+        Post post = new Post(42L, "রহিম", "আজ অনেক সুন্দর দিন #ঢাকা @করিম", "/uploads/a_photo.jpg", "image",
+                "https://example.com/avatar.png", LocalDateTime.of(2024, 2, 21, 9, 30, 15, 123_456_789));
+
+        assertEquals(post, codec.decodePost(codec.encodePost(post)));
+    }
+
+    @Test
+    void leavesSmallBodiesUncompressed() {
+        byte[] bytes = codec.encodePost(post("short"));
+
+        assertEquals(0, bytes[FLAGS_INDEX]);
+    }
+
+    @Test
+    void compressesBodiesAboveThreshold() {
+        Post post = post("আজ অনেক সুন্দর দিন #onyx ".repeat(100));
+
+        byte[] compressed = codec.encodePost(post);
+        byte[] uncompressed = new PostCodec(Integer.MAX_VALUE).encodePost(post);
+
+        assertEquals(1, compressed[FLAGS_INDEX]);
+        assertEquals(0, uncompressed[FLAGS_INDEX]);
+        assertTrue(compressed.length < uncompressed.length);
+        assertEquals(post, codec.decodePost(compressed));
+        assertEquals(post, codec.decodePost(uncompressed));
+    }
+
+    @Test
+    void roundTripsFeedIds() {
+        List<Long> ids = List.of(905L, 904L, 3L, 1L);
+
+        PostCodec.FeedIds withCursor = codec.decodeFeed(codec.encodeFeed(ids, 1L));
+        PostCodec.FeedIds withoutCursor = codec.decodeFeed(codec.encodeFeed(List.of(), null));
+
+        assertEquals(ids, withCursor.ids());
+        assertEquals(1L, withCursor.nextCursor());
+        assertEquals(List.of(), withoutCursor.ids());
+        assertNull(withoutCursor.nextCursor());
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] bytes = codec.encodePost(post("hello"));
+        bytes[0] = (byte) (PostCodec.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodePost(bytes));
+    }
+
+    @Test
+    void rejectsFeedPayloadAsPost() {
+        byte[] feed = codec.encodeFeed(List.of(1L, 2L), null);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodePost(feed));
+    }
+
+    @Test
+    void rejectsTruncatedPayload() {
+        byte[] bytes = codec.encodePost(post("hello"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodePost(Arrays.copyOf(bytes, bytes.length - 3)));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodePost(new byte[0]));
+    }
+
+    @Test
+    void rejectsCorruptCompressedPayload() {
+        byte[] bytes = codec.encodePost(post("আজ অনেক সুন্দর দিন #onyx ".repeat(100)));
+        assertEquals(1, bytes[FLAGS_INDEX]);
+        for (int i = 6; i < bytes.length; i++) {
+            bytes[i] ^= (byte) 0xFF;
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodePost(bytes));
+    }
+
+    private static Post post(String content) {
+        return new Post(1L, "user1", content, null, null, null, LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+}
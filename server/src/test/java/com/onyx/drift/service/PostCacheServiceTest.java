@@ -0,0 +1,138 @@
+package com.onyx.drift.service;
+
+import com.onyx.drift.cache.InMemoryPostCacheStore;
+import com.onyx.drift.cache.PostCodec;
+import com.onyx.drift.model.Post;
+import com.onyx.drift.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PostCacheService: Redis এর বদলে InMemoryPostCacheStore, ডাটাবেসের বদলে mock PostRepository।
+ * টেস্টে কোনো ট্রানজ্যাকশন চলে না, তাই onPostCreated এর কাজ সাথে সাথেই হয়।
+ */
+class PostCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final PostCodec codec = new PostCodec(512);
+    private InMemoryPostCacheStore store;
+    private PostRepository postRepository;
+    private PostCacheService postCacheService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryPostCacheStore();
+        postRepository = mock(PostRepository.class);
+        postCacheService = new PostCacheService();
+        ReflectionTestUtils.setField(postCacheService, "postCacheStore", store);
+        ReflectionTestUtils.setField(postCacheService, "postCodec", codec);
+        ReflectionTestUtils.setField(postCacheService, "postRepository", postRepository);
+        ReflectionTestUtils.setField(postCacheService, "ttlSeconds", 600L);
+    }
+
+    @Test
+    void getPostsLoadsOnlyMissingPostsAndKeepsOrder() {
+        cache(post(1), post(3));
+        when(postRepository.findAllById(List.of(2L))).thenReturn(List.of(post(2)));
+
+        List<Post> posts = postCacheService.getPosts(List.of(3L, 2L, 1L));
+
+        assertEquals(List.of(post(3), post(2), post(1)), posts);
+        verify(postRepository).findAllById(List.of(2L));
+    }
+
+    @Test
+    void getPostsBackfillsMissesIntoCache() {
+        when(postRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(post(1), post(2)));
+
+        postCacheService.getPosts(List.of(1L, 2L));
+
+        assertEquals(post(2), codec.decodePost(store.multiGet(List.of("post:2")).get(0)));
+        assertEquals(List.of(post(1), post(2)), postCacheService.getPosts(List.of(1L, 2L)));
+        verify(postRepository).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    void getPostsDropsIdsMissingFromDatabase() {
+        cache(post(1));
+
+        assertEquals(List.of(post(1)), postCacheService.getPosts(List.of(5L, 1L)));
+        verify(postRepository).findAllById(List.of(5L));
+    }
+
+    @Test
+    void corruptEntryIsTreatedAsMissAndRewritten() {
+        store.multiSet(Map.of("post:1", new byte[]{9, 9, 9}), TTL);
+        when(postRepository.findAllById(List.of(1L))).thenReturn(List.of(post(1)));
+
+        assertEquals(List.of(post(1)), postCacheService.getPosts(List.of(1L)));
+        assertEquals(post(1), codec.decodePost(store.multiGet(List.of("post:1")).get(0)));
+    }
+
+    @Test
+    void globalFeedMissLoadsIdsAndHydratesFromCache() {
+        cache(post(1));
+        when(postRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(postRepository.findAllById(List.of(2L))).thenReturn(List.of(post(2)));
+
+        assertEquals(List.of(post(1), post(2)), postCacheService.getGlobalFeed());
+        assertEquals(List.of(post(1), post(2)), postCacheService.getGlobalFeed());
+
+        verify(postRepository).findAllIds();
+        verify(postRepository).findAllById(List.of(2L));
+    }
+
+    @Test
+    void createdPostIsAddedToCachedFeedWithoutDatabaseRead() {
+        when(postRepository.findAllIds()).thenReturn(List.of(1L, 3L));
+        when(postRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(post(1), post(3)));
+        postCacheService.getGlobalFeed();
+
+        postCacheService.onPostCreated(post(4));
+        postCacheService.onPostCreated(post(2));
+
+        assertEquals(List.of(post(1), post(2), post(3), post(4)), postCacheService.getGlobalFeed());
+        verify(postRepository).findAllIds();
+        verify(postRepository).findAllById(List.of(1L, 3L));
+    }
+
+    @Test
+    void staleFeedWrittenAfterCreateIsNotServed() {
+        postCacheService.onPostCreated(post(2));
+        // কমিটের আগে শুরু হওয়া একটি রিড পোস্ট 2 ছাড়া লিস্ট পরে লিখল (পুরনো জেনারেশনে)
+        store.multiSet(Map.of("feed:all:0", codec.encodeFeed(List.of(1L), null)), TTL);
+        cache(post(1));
+        when(postRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        assertEquals(List.of(post(1), post(2)), postCacheService.getGlobalFeed());
+    }
+
+    @Test
+    void createdPostIsCached() {
+        postCacheService.onPostCreated(post(3));
+
+        assertEquals(List.of(post(3)), postCacheService.getPosts(List.of(3L)));
+        verify(postRepository, never()).findAllById(List.of(3L));
+    }
+
+    private void cache(Post... posts) {
+        for (Post post : posts) {
+            store.multiSet(Map.of("post:" + post.getId(), codec.encodePost(post)), TTL);
+        }
+    }
+
+    private static Post post(long id) {
+        return new Post(id, "user" + id, "পোস্ট " + id + " #onyx", null, null, null,
+                LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id));
+    }
+}
@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+# স্টার্টআপ বেঞ্চমার্ক: JVM স্টার্ট থেকে প্রথম সফল /api/posts রেসপন্স পর্যন্ত সময় এবং আইডল অবস্থায় RSS
+#
+# ব্যবহার:
+#   ./startup-bench.sh                      # সাধারণ জার (mvn package)
+#   ./startup-bench.sh aot                  # AOT + CDS (Dockerfile.java এর মতো লেআউট, ./bench-cds এ তৈরি হয়)
+#
+# জার না থাকলে বানানো হয়; aot মোডে জারটি -Pfast-startup দিয়ে বানানো না হলে আবার বানানো হয়।
+# ফলাফল যাতে নেটওয়ার্কের উপর নির্ভর না করে, অ্যাপ চলে ইন-মেমোরি পোস্ট ক্যাশ দিয়ে (--drift.cache.store=memory)।
+#
+# এনভায়রনমেন্ট: RUNS (ডিফল্ট 5), PORT (ডিফল্ট 10000), IDLE_SECONDS (ডিফল্ট 10)
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+MODE="${1:-jar}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-10000}"
+IDLE_SECONDS="${IDLE_SECONDS:-10}"
+URL="http://localhost:${PORT}/api/posts"
+APP_ARGS=(--server.port="$PORT" --drift.cache.store=memory)
+# process-aot যে ইনিশিয়ালাইজার তৈরি করে, সেটি জারে থাকলে বোঝা যায় জারটি -Pfast-startup দিয়ে বানানো
+AOT_MARKER="BOOT-INF/classes/com/onyx/drift/DriftApplication__ApplicationContextInitializer.class"
+
+find_jar() {
+    ls target/drift-*.jar 2>/dev/null | head -n 1 || true
+}
+
+JAR="$(find_jar)"
+if [ "$MODE" = "aot" ]; then
+    if [ -z "$JAR" ] || ! jar -tf "$JAR" | grep -x "$AOT_MARKER" > /dev/null; then
+        echo "building jar with -Pfast-startup (AOT classes missing)"
+        mvn -q -B clean package -Pfast-startup -DskipTests
+        JAR="$(find_jar)"
+    fi
+elif [ -z "$JAR" ]; then
+    echo "building jar"
+    mvn -q -B package -DskipTests
+    JAR="$(find_jar)"
+fi
+if [ -z "$JAR" ]; then
+    echo "no target/drift-*.jar after build" >&2
+    exit 1
+fi
+
+# ১. AOT + CDS মোডে Dockerfile.java এর মতো আনপ্যাক করে একবার ট্রেনিং রান চালানো
+if [ "$MODE" = "aot" ]; then
+    rm -rf bench-cds && mkdir -p bench-cds/unpacked
+    (cd bench-cds/unpacked && jar -xf "../../$JAR")
+    jar -cf bench-cds/application.jar -C bench-cds/unpacked/BOOT-INF/classes .
+    mv bench-cds/unpacked/BOOT-INF/lib bench-cds/lib
+    rm -rf bench-cds/unpacked
+    if ! (cd bench-cds && java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true \
+        -Dspring.context.exit=onRefresh -cp "application.jar:lib/*" com.onyx.drift.DriftApplication \
+        "${APP_ARGS[@]}" > training.log 2>&1); then
+        echo "CDS training run failed, see bench-cds/training.log:" >&2
+        tail -n 20 bench-cds/training.log >&2
+        exit 1
+    fi
+    WORKDIR="bench-cds"
+    CMD=(java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -cp "application.jar:lib/*" com.onyx.drift.DriftApplication)
+else
+    WORKDIR="."
+    CMD=(java -jar "$JAR")
+fi
+
+echo "mode=$MODE runs=$RUNS url=$URL cache=memory"
+printf "%-5s %-12s %-12s\n" "run" "ttfr_ms" "idle_rss_mb"
+
+for i in $(seq 1 "$RUNS"); do
+    # ২. JVM চালু করার ঠিক আগের সময় নেওয়া হলো
+    START_NS=$(date +%s%N)
+    (cd "$WORKDIR" && exec "${CMD[@]}" "${APP_ARGS[@]}") > "bench-run-$i.log" 2>&1 &
+    PID=$!
+
+    # ৩. প্রথম সফল (HTTP 200) /api/posts রেসপন্স পর্যন্ত পোলিং
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)" = "200" ]; do
+        if ! kill -0 "$PID" 2>/dev/null; then
+            echo "run $i: app exited before first response, see bench-run-$i.log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    TTFR_MS=$(( ($(date +%s%N) - START_NS) / 1000000 ))
+
+    # ৪. আইডল অবস্থায় RSS (/proc থেকে VmRSS)
+    sleep "$IDLE_SECONDS"
+    RSS_KB=$(awk '/VmRSS/ {print $2}' "/proc/$PID/status")
+
+    printf "%-5s %-12s %-12s\n" "$i" "$TTFR_MS" "$(( RSS_KB / 1024 ))"
+
+    kill "$PID" && wait "$PID" 2>/dev/null || true
+    rm -f "bench-run-$i.log"
+done